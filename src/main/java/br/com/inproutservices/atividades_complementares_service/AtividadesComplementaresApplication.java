@@ -1,9 +1,14 @@
 package br.com.inproutservices.atividades_complementares_service;
 
+import br.com.inproutservices.atividades_complementares_service.config.AtividadesComplementaresRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ImportRuntimeHints(AtividadesComplementaresRuntimeHints.class)
+@EnableScheduling
 public class AtividadesComplementaresApplication {
     public static void main(String[] args) {
         SpringApplication.run(AtividadesComplementaresApplication.class, args);
@@ -0,0 +1,53 @@
+package br.com.inproutservices.atividades_complementares_service.config;
+
+import br.com.inproutservices.atividades_complementares_service.dtos.SolicitacaoDTO;
+import br.com.inproutservices.atividades_complementares_service.entities.SolicitacaoAtividadeComplementar;
+import br.com.inproutservices.atividades_complementares_service.enums.StatusSolicitacaoComplementar;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * Hints de reflexão/recursos para o build nativo (GraalVM) e para o modo AOT na JVM.
+ * Cobre o que o Spring não consegue inferir sozinho: o uso de Map/List "soltos" com Jackson e
+ * RestTemplate no SolicitacaoService e as classes do cache L2 carregadas por nome via configuração.
+ */
+public class AtividadesComplementaresRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // DTOs (records) lidos e escritos pelo Jackson nos endpoints
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                SolicitacaoDTO.Request.class,
+                SolicitacaoDTO.Response.class,
+                SolicitacaoDTO.EdicaoCoordenadorDTO.class,
+                SolicitacaoDTO.AcaoDTO.class,
+                StatusSolicitacaoComplementar.class);
+
+        // Entidade JPA (acessada pelo Hibernate por campo e pelos getters/setters do Lombok)
+        hints.reflection().registerType(SolicitacaoAtividadeComplementar.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+
+        // Payloads genéricos trocados com o Monólito (Map.class / TypeReference<List<Map<String, Object>>>)
+        hints.reflection().registerType(LinkedHashMap.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(HashMap.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(ArrayList.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Cache L2: provider e region factory são instanciados a partir do application.yaml
+        hints.reflection().registerType(TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("application.conf");
+    }
+}
@@ -3,11 +3,15 @@ package br.com.inproutservices.atividades_complementares_service.entities;
 import br.com.inproutservices.atividades_complementares_service.enums.StatusSolicitacaoComplementar;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "solicitacao_atividade_complementar")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SolicitacaoAtividadeComplementar.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,6 +19,9 @@ import java.time.LocalDateTime;
 @Builder
 public class SolicitacaoAtividadeComplementar {
 
+    // Região do cache L2 (configurada em application.conf)
+    public static final String CACHE_REGION = "solicitacao";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -2,14 +2,24 @@ package br.com.inproutservices.atividades_complementares_service.repositories;
 
 import br.com.inproutservices.atividades_complementares_service.entities.SolicitacaoAtividadeComplementar;
 import br.com.inproutservices.atividades_complementares_service.enums.StatusSolicitacaoComplementar;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SolicitacaoAtividadeComplementarRepository extends JpaRepository<SolicitacaoAtividadeComplementar, Long> {
 
+    // Transições de status: lê a linha do banco (não do cache L2) e a trava até o fim da transação
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SolicitacaoAtividadeComplementar s WHERE s.id = :id")
+    Optional<SolicitacaoAtividadeComplementar> findByIdForUpdate(@Param("id") Long id);
+
     List<SolicitacaoAtividadeComplementar> findByStatus(StatusSolicitacaoComplementar status);
 
     List<SolicitacaoAtividadeComplementar> findByStatusIn(List<StatusSolicitacaoComplementar> statuses);
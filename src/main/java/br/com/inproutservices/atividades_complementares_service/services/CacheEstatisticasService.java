@@ -0,0 +1,65 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import br.com.inproutservices.atividades_complementares_service.entities.SolicitacaoAtividadeComplementar;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Estatísticas agregadas do cache L2 da região {@value SolicitacaoAtividadeComplementar#CACHE_REGION},
+ * lidas do Hibernate (exige hibernate.generate_statistics) e logadas periodicamente.
+ */
+@Service
+public class CacheEstatisticasService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheEstatisticasService.class);
+
+    private final Statistics statistics;
+
+    public CacheEstatisticasService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Retorna as estatísticas da região ou {@code null} se as estatísticas ou o cache L2 estiverem desabilitados.
+     */
+    public CacheRegionStatistics estatisticasSolicitacao() {
+        if (!statistics.isStatisticsEnabled()) return null;
+        try {
+            return statistics.getCacheRegionStatistics(SolicitacaoAtividadeComplementar.CACHE_REGION);
+        } catch (IllegalArgumentException e) {
+            // Região inexistente: cache L2 desligado neste ambiente
+            return null;
+        }
+    }
+
+    /**
+     * Taxa de acerto (0 a 1) desde o início da aplicação ou desde o último reset das estatísticas.
+     */
+    public double taxaDeAcertoSolicitacao() {
+        CacheRegionStatistics regiao = estatisticasSolicitacao();
+        if (regiao == null) return 0.0;
+        long total = regiao.getHitCount() + regiao.getMissCount();
+        return total == 0 ? 0.0 : (double) regiao.getHitCount() / total;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.estatisticas.intervalo-ms:300000}",
+            initialDelayString = "${app.cache.estatisticas.intervalo-ms:300000}")
+    public void logarEstatisticas() {
+        CacheRegionStatistics regiao = estatisticasSolicitacao();
+        if (regiao == null) return;
+
+        log.info("Cache L2 '{}': hits={}, misses={}, puts={}, taxa de acerto={}%, elementos em memória={}",
+                SolicitacaoAtividadeComplementar.CACHE_REGION,
+                regiao.getHitCount(),
+                regiao.getMissCount(),
+                regiao.getPutCount(),
+                String.format("%.1f", taxaDeAcertoSolicitacao() * 100),
+                regiao.getElementCountInMemory());
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Barramento de invalidação de cache entre as réplicas do serviço, usando LISTEN/NOTIFY do Postgres.
+ * <p>
+ * Cada escrita publica "regiao + chave" no canal; as outras instâncias recebem a mensagem depois do
+ * commit e chamam os handlers registrados para a região. A chave {@value #TODAS_AS_CHAVES} significa
+ * "limpar a região inteira" e é enviada localmente sempre que a conexão de escuta é (re)estabelecida,
+ * já que notificações emitidas enquanto a instância estava desconectada são perdidas.
+ * <p>
+ * {@code getNotifications} não envia nada ao servidor, então uma conexão meio-morta (timeout de NAT/LB, failover
+ * sem RST) nunca geraria erro. Por isso cada volta do laço faz um {@code SELECT 1} na conexão de escuta, com
+ * {@code socketTimeout} e TCP keepalive ligados: a conexão morta lança exceção e o fluxo de reconexão roda.
+ * <p>
+ * Limite conhecido: uma instância que estava lendo a linha antiga do banco no momento do NOTIFY pode gravá-la
+ * no cache depois da invalidação. Por isso os handlers rodam de novo após {@code reexecucao-ms}; um load que
+ * demore mais que isso ainda pode deixar o valor antigo até a expiração da região (application.conf).
+ */
+@Service
+public class CacheInvalidacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidacaoService.class);
+
+    public static final String TODAS_AS_CHAVES = "*";
+
+    private static final String CANAL = "atividades_complementares_cache";
+    private static final String SEPARADOR = "|";
+    static final String APPLICATION_NAME = "cache-invalidacao-listener";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String instanciaId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("cache-invalidacao-reexecucao").factory());
+
+    private volatile boolean executando;
+    private volatile boolean escutando;
+    private Thread escuta;
+
+    @Value("${app.cache.invalidacao.enabled:true}")
+    private boolean habilitado;
+
+    @Value("${app.cache.invalidacao.intervalo-ms:5000}")
+    private long intervaloMs;
+
+    @Value("${app.cache.invalidacao.reexecucao-ms:2000}")
+    private long reexecucaoMs;
+
+    @Value("${app.cache.invalidacao.socket-timeout-s:10}")
+    private int socketTimeoutSegundos;
+
+    public CacheInvalidacaoService(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    public void registrar(String regiao, Consumer<String> handler) {
+        handlers.computeIfAbsent(regiao, r -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Publica a invalidação no canal. Dentro de uma transação o Postgres só entrega o NOTIFY no commit
+     * (e o descarta no rollback), então as outras instâncias nunca recarregam um estado não confirmado.
+     */
+    public void publicar(String regiao, Object chave) {
+        if (!habilitado || chave == null) return;
+
+        String payload = instanciaId + SEPARADOR + regiao + SEPARADOR + chave;
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+            ps.setString(1, CANAL);
+            ps.setString(2, payload);
+            return ps.execute();
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado) {
+            log.info("Invalidação de cache entre instâncias desabilitada.");
+            return;
+        }
+        executando = true;
+        escuta = Thread.ofPlatform().daemon().name("cache-invalidacao-listener").start(this::escutar);
+    }
+
+    @PreDestroy
+    public void parar() {
+        executando = false;
+        if (escuta != null) escuta.interrupt();
+        agendador.shutdownNow();
+    }
+
+    String getInstanciaId() {
+        return instanciaId;
+    }
+
+    boolean isEscutando() {
+        return escutando;
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void escutar() {
+        while (executando) {
+            try (Connection conn = DriverManager.getConnection(dataSourceProperties.determineUrl(), propriedadesConexao())) {
+
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + CANAL);
+                }
+                log.info("Instância {} escutando invalidações de cache no canal '{}'.", instanciaId, CANAL);
+                invalidarTudoLocalmente();
+                escutando = true;
+
+                PGConnection pgConn = conn.unwrap(PGConnection.class);
+                while (executando) {
+                    verificarConexao(conn);
+                    PGNotification[] notificacoes = pgConn.getNotifications((int) intervaloMs);
+                    if (notificacoes == null) continue;
+                    for (PGNotification notificacao : notificacoes) {
+                        despachar(notificacao.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                escutando = false;
+                if (!executando) return;
+                log.error("Conexão de escuta de invalidação de cache perdida: {}. Reconectando em {} ms.", e.getMessage(), intervaloMs);
+                try {
+                    Thread.sleep(intervaloMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Properties propriedadesConexao() {
+        Properties props = new Properties();
+        if (dataSourceProperties.determineUsername() != null) props.setProperty("user", dataSourceProperties.determineUsername());
+        if (dataSourceProperties.determinePassword() != null) props.setProperty("password", dataSourceProperties.determinePassword());
+        props.setProperty("tcpKeepAlive", "true");
+        props.setProperty("socketTimeout", String.valueOf(socketTimeoutSegundos));
+        props.setProperty("ApplicationName", APPLICATION_NAME);
+        return props;
+    }
+
+    private void verificarConexao(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("SELECT 1");
+        }
+    }
+
+    void despachar(String payload) {
+        String[] partes = payload.split("\\" + SEPARADOR, 3);
+        if (partes.length != 3) {
+            log.warn("Mensagem de invalidação de cache inválida: {}", payload);
+            return;
+        }
+        // A própria instância já atualizou seu cache ao gravar.
+        if (instanciaId.equals(partes[0])) return;
+
+        log.debug("Invalidando cache '{}' chave {} (origem {}).", partes[1], partes[2], partes[0]);
+        executarHandlers(partes[1], partes[2]);
+        if (reexecucaoMs > 0) {
+            agendador.schedule(() -> executarHandlers(partes[1], partes[2]), reexecucaoMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void invalidarTudoLocalmente() {
+        handlers.keySet().forEach(regiao -> executarHandlers(regiao, TODAS_AS_CHAVES));
+    }
+
+    private void executarHandlers(String regiao, String chave) {
+        for (Consumer<String> handler : handlers.getOrDefault(regiao, List.of())) {
+            try {
+                handler.accept(chave);
+            } catch (Exception e) {
+                log.error("Erro ao invalidar cache '{}' chave {}: {}", regiao, chave, e.getMessage());
+            }
+        }
+    }
+}
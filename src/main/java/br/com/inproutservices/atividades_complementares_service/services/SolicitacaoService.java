@@ -6,6 +6,9 @@ import br.com.inproutservices.atividades_complementares_service.enums.StatusSoli
 import br.com.inproutservices.atividades_complementares_service.repositories.SolicitacaoAtividadeComplementarRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -24,6 +27,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -37,17 +41,34 @@ public class SolicitacaoService {
     private final SolicitacaoAtividadeComplementarRepository repository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-    private final Map<Long, Long> cacheSegmentoOs = new HashMap<>();
+    private final CacheInvalidacaoService cacheInvalidacao;
+    // OS -> segmento pertence ao Monólito; o TTL limita por quanto tempo cada réplica pode servir um valor antigo
+    private final Cache<Long, Long> cacheSegmentoOs;
 
     @Value("${APP_MONOLITH_URL:http://inprout-monolito:8080}")
     private String monolithUrl;
 
-    public SolicitacaoService(SolicitacaoAtividadeComplementarRepository repository, RestTemplateBuilder builder) {
+    public SolicitacaoService(SolicitacaoAtividadeComplementarRepository repository, RestTemplateBuilder builder,
+                              CacheInvalidacaoService cacheInvalidacao, EntityManagerFactory entityManagerFactory,
+                              @Value("${app.cache.segmento-os.ttl-minutos:10}") long ttlSegmentoOsMinutos) {
         this.repository = repository;
         this.restTemplate = builder
                 .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
                 .build();
         this.objectMapper = new ObjectMapper();
+        this.cacheInvalidacao = cacheInvalidacao;
+        this.cacheSegmentoOs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlSegmentoOsMinutos))
+                .build();
+
+        // Invalidações vindas das outras instâncias (LISTEN/NOTIFY)
+        cacheInvalidacao.registrar(SolicitacaoAtividadeComplementar.CACHE_REGION, chave -> {
+            if (CacheInvalidacaoService.TODAS_AS_CHAVES.equals(chave)) {
+                entityManagerFactory.getCache().evict(SolicitacaoAtividadeComplementar.class);
+            } else {
+                entityManagerFactory.getCache().evict(SolicitacaoAtividadeComplementar.class, Long.valueOf(chave));
+            }
+        });
     }
 
     // --- MÉTODOS DE NEGÓCIO ---
@@ -99,6 +120,7 @@ public class SolicitacaoService {
         if (segmentoRecuperado != null) {
             solicitacao.setSegmentoId(segmentoRecuperado);
             repository.save(solicitacao);
+            cacheInvalidacao.publicar(SolicitacaoAtividadeComplementar.CACHE_REGION, solicitacao.getId());
             return segmentosUsuario.contains(segmentoRecuperado);
         }
 
@@ -147,7 +169,7 @@ public class SolicitacaoService {
 
     @Transactional
     public SolicitacaoAtividadeComplementar aprovarPeloCoordenador(Long id, SolicitacaoDTO.EdicaoCoordenadorDTO dto) {
-        SolicitacaoAtividadeComplementar s = buscarPorId(id);
+        SolicitacaoAtividadeComplementar s = buscarParaAtualizacao(id);
 
         boolean statusValido = s.getStatus() == StatusSolicitacaoComplementar.PENDENTE_COORDENADOR ||
                 s.getStatus() == StatusSolicitacaoComplementar.DEVOLVIDO_CONTROLLER;
@@ -166,12 +188,14 @@ public class SolicitacaoService {
 
         s.setStatus(StatusSolicitacaoComplementar.PENDENTE_CONTROLLER);
 
-        return repository.save(s);
+        SolicitacaoAtividadeComplementar salva = repository.save(s);
+        cacheInvalidacao.publicar(SolicitacaoAtividadeComplementar.CACHE_REGION, id);
+        return salva;
     }
 
     @Transactional
     public SolicitacaoAtividadeComplementar aprovarPeloController(Long id, SolicitacaoDTO.EdicaoCoordenadorDTO dto) {
-        SolicitacaoAtividadeComplementar s = buscarPorId(id);
+        SolicitacaoAtividadeComplementar s = buscarParaAtualizacao(id);
         if (s.getStatus() != StatusSolicitacaoComplementar.PENDENTE_CONTROLLER) {
             throw new RuntimeException("Status inválido. Esperado PENDENTE_CONTROLLER.");
         }
@@ -193,12 +217,14 @@ public class SolicitacaoService {
         s.setDataAcaoController(LocalDateTime.now());
         s.setStatus(StatusSolicitacaoComplementar.APROVADO);
 
-        return repository.save(s);
+        SolicitacaoAtividadeComplementar salva = repository.save(s);
+        cacheInvalidacao.publicar(SolicitacaoAtividadeComplementar.CACHE_REGION, id);
+        return salva;
     }
 
     @Transactional
     public SolicitacaoAtividadeComplementar rejeitar(Long id, Long aprovadorId, String motivo, String roleOrigem) {
-        SolicitacaoAtividadeComplementar s = buscarPorId(id);
+        SolicitacaoAtividadeComplementar s = buscarParaAtualizacao(id);
         if (motivo == null || motivo.isBlank()) throw new RuntimeException("Motivo obrigatório.");
 
         if (roleOrigem != null && roleOrigem.toUpperCase().contains("COORDINATOR")) {
@@ -216,7 +242,9 @@ public class SolicitacaoService {
             s.setStatus(StatusSolicitacaoComplementar.REJEITADO);
             s.setMotivoRecusa(motivo);
         }
-        return repository.save(s);
+        SolicitacaoAtividadeComplementar salva = repository.save(s);
+        cacheInvalidacao.publicar(SolicitacaoAtividadeComplementar.CACHE_REGION, id);
+        return salva;
     }
 
     // --- MÉTODOS AUXILIARES ---
@@ -325,6 +353,11 @@ public class SolicitacaoService {
         return repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Não encontrado: " + id));
     }
 
+    // O cache L2 de outra réplica pode estar defasado: a validação de status usa a linha atual, travada
+    private SolicitacaoAtividadeComplementar buscarParaAtualizacao(Long id) {
+        return repository.findByIdForUpdate(id).orElseThrow(() -> new EntityNotFoundException("Não encontrado: " + id));
+    }
+
     private String descobrirUrlBaseAtiva() {
         String baseUrl = monolithUrl.endsWith("/") ? monolithUrl.substring(0, monolithUrl.length() - 1) : monolithUrl;
         try {
@@ -359,7 +392,8 @@ public class SolicitacaoService {
 
     private Long buscarSegmentoDaOs(Long osId) {
         if (osId == null) return null;
-        if (cacheSegmentoOs.containsKey(osId)) return cacheSegmentoOs.get(osId);
+        Long emCache = cacheSegmentoOs.getIfPresent(osId);
+        if (emCache != null) return emCache;
 
         try {
             Map<String, Object> map = buscarNoMonolito("/os/" + osId);
@@ -0,0 +1,60 @@
+package br.com.inproutservices.atividades_complementares_service.config;
+
+import br.com.inproutservices.atividades_complementares_service.dtos.SolicitacaoDTO;
+import br.com.inproutservices.atividades_complementares_service.entities.SolicitacaoAtividadeComplementar;
+import br.com.inproutservices.atividades_complementares_service.enums.StatusSolicitacaoComplementar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AtividadesComplementaresRuntimeHintsTest {
+
+	private RuntimeHints hints;
+
+	@BeforeEach
+	void setUp() {
+		hints = new RuntimeHints();
+		new AtividadesComplementaresRuntimeHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@Test
+	void registraDtosParaJackson() throws NoSuchMethodException {
+		assertThat(RuntimeHintsPredicates.reflection().onType(SolicitacaoDTO.Request.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(SolicitacaoDTO.Response.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(SolicitacaoDTO.EdicaoCoordenadorDTO.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(SolicitacaoDTO.AcaoDTO.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(StatusSolicitacaoComplementar.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onMethod(SolicitacaoDTO.Request.class.getMethod("osId"))).accepts(hints);
+	}
+
+	@Test
+	void registraEntidadeJpa() {
+		assertThat(RuntimeHintsPredicates.reflection().onType(SolicitacaoAtividadeComplementar.class)
+				.withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+				.accepts(hints);
+	}
+
+	@Test
+	void registraColecoesUsadasComMapDoMonolito() {
+		assertThat(RuntimeHintsPredicates.reflection().onType(LinkedHashMap.class)
+				.withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+	}
+
+	@Test
+	void registraCacheL2() {
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onType(TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"))).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onType(TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"))).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource("application.conf")).accepts(hints);
+	}
+
+}
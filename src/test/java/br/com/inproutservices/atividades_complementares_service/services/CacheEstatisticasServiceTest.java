@@ -0,0 +1,33 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheEstatisticasServiceTest extends IntegracaoCacheTestBase {
+
+	@Autowired
+	private CacheEstatisticasService cacheEstatisticas;
+
+	@Test
+	void segundaBuscaPorIdVemDoCacheL2() {
+		Long id = novaSolicitacao();
+
+		CacheRegionStatistics antes = cacheEstatisticas.estatisticasSolicitacao();
+		long hitsAntes = antes.getHitCount();
+		long missesAntes = antes.getMissCount();
+
+		solicitacaoService.buscarPorId(id);
+		assertThat(emCache(id)).isTrue();
+
+		solicitacaoService.buscarPorId(id);
+
+		CacheRegionStatistics depois = cacheEstatisticas.estatisticasSolicitacao();
+		assertThat(depois.getMissCount() - missesAntes).isEqualTo(1);
+		assertThat(depois.getHitCount() - hitsAntes).isEqualTo(1);
+		assertThat(cacheEstatisticas.taxaDeAcertoSolicitacao()).isGreaterThan(0.0);
+	}
+
+}
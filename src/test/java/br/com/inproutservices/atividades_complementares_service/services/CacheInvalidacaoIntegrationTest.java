@@ -0,0 +1,84 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caminho completo: NOTIFY no Postgres -> thread de escuta -> handler do SolicitacaoService -> evict no cache L2.
+ * Mensagens da própria instância são cobertas em CacheInvalidacaoServiceTest.
+ */
+class CacheInvalidacaoIntegrationTest extends IntegracaoCacheTestBase {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void notificacaoDeOutraInstanciaRemoveEntidadeDoCacheL2() throws InterruptedException {
+		Long id = novaSolicitacao();
+		solicitacaoService.buscarPorId(id);
+		assertThat(emCache(id)).isTrue();
+
+		notificarComoOutraInstancia("solicitacao|" + id);
+
+		assertThat(aguardarSairDoCache(id)).isTrue();
+	}
+
+	@Test
+	void todasAsChavesLimpaARegiaoInteira() throws InterruptedException {
+		Long id = novaSolicitacao();
+		solicitacaoService.buscarPorId(id);
+		assertThat(emCache(id)).isTrue();
+
+		notificarComoOutraInstancia("solicitacao|" + CacheInvalidacaoService.TODAS_AS_CHAVES);
+
+		assertThat(aguardarSairDoCache(id)).isTrue();
+	}
+
+	@Test
+	void reconectaEVoltaAEntregarQuandoAConexaoDeEscutaCai() throws InterruptedException {
+		Integer pidAntigo = pidDaEscuta();
+		assertThat(pidAntigo).isNotNull();
+
+		jdbcTemplate.queryForList("SELECT pg_terminate_backend(?)", pidAntigo);
+
+		// Só conta como reconectado com um backend novo e a escuta marcada de novo (após o clear-all)
+		Integer pidNovo = null;
+		for (int i = 0; i < 100; i++) {
+			pidNovo = pidDaEscuta();
+			if (pidNovo != null && !pidNovo.equals(pidAntigo) && cacheInvalidacao.isEscutando()) break;
+			Thread.sleep(100);
+		}
+		assertThat(pidNovo).isNotNull().isNotEqualTo(pidAntigo);
+		assertThat(cacheInvalidacao.isEscutando()).isTrue();
+
+		Long id = novaSolicitacao();
+		solicitacaoService.buscarPorId(id);
+		assertThat(emCache(id)).isTrue();
+
+		notificarComoOutraInstancia("solicitacao|" + id);
+
+		assertThat(aguardarSairDoCache(id)).isTrue();
+	}
+
+	private Integer pidDaEscuta() {
+		return jdbcTemplate.queryForList(
+				"SELECT pid FROM pg_stat_activity WHERE application_name = ? AND datname = current_database()",
+				Integer.class, CacheInvalidacaoService.APPLICATION_NAME).stream().findFirst().orElse(null);
+	}
+
+	private void notificarComoOutraInstancia(String regiaoEChave) {
+		jdbcTemplate.queryForList("SELECT pg_notify('atividades_complementares_cache', ?)", "outra-instancia|" + regiaoEChave);
+	}
+
+	private boolean aguardarSairDoCache(Long id) throws InterruptedException {
+		for (int i = 0; i < 30; i++) {
+			if (!emCache(id)) return true;
+			Thread.sleep(100);
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,124 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CacheInvalidacaoServiceTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private CacheInvalidacaoService service;
+	private List<String> recebidas;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		service = new CacheInvalidacaoService(jdbcTemplate, new DataSourceProperties());
+		ReflectionTestUtils.setField(service, "habilitado", true);
+		recebidas = new CopyOnWriteArrayList<>();
+		service.registrar("solicitacao", recebidas::add);
+	}
+
+	@Test
+	void despacharMensagemDeOutraInstanciaChamaHandlerDaRegiao() {
+		service.despachar("outra-instancia|solicitacao|42");
+		service.despachar("outra-instancia|segmento|7");
+
+		assertThat(recebidas).containsExactly("42");
+	}
+
+	@Test
+	void despacharIgnoraPayloadMalformado() {
+		service.despachar("sem-separador");
+		service.despachar("outra-instancia|solicitacao");
+		service.despachar("");
+
+		assertThat(recebidas).isEmpty();
+	}
+
+	@Test
+	void despacharIgnoraMensagemDaPropriaInstancia() {
+		service.despachar(service.getInstanciaId() + "|solicitacao|42");
+
+		assertThat(recebidas).isEmpty();
+	}
+
+	@Test
+	void chaveComSeparadorChegaInteiraAoHandler() {
+		service.despachar("outra-instancia|solicitacao|a|b");
+
+		assertThat(recebidas).containsExactly("a|b");
+	}
+
+	@Test
+	void reconexaoEnviaTodasAsChavesParaCadaRegiao() {
+		List<String> outraRegiao = new CopyOnWriteArrayList<>();
+		service.registrar("segmento", outraRegiao::add);
+
+		service.invalidarTudoLocalmente();
+
+		assertThat(recebidas).containsExactly(CacheInvalidacaoService.TODAS_AS_CHAVES);
+		assertThat(outraRegiao).containsExactly(CacheInvalidacaoService.TODAS_AS_CHAVES);
+	}
+
+	@Test
+	void erroEmUmHandlerNaoImpedeOsDemais() {
+		service.registrar("solicitacao", chave -> Long.valueOf(chave));
+		List<String> depoisDoErro = new CopyOnWriteArrayList<>();
+		service.registrar("solicitacao", depoisDoErro::add);
+
+		service.despachar("outra-instancia|solicitacao|nao-numerico");
+
+		assertThat(recebidas).containsExactly("nao-numerico");
+		assertThat(depoisDoErro).containsExactly("nao-numerico");
+	}
+
+	@Test
+	void handlersRodamNovamenteAposReexecucao() throws InterruptedException {
+		ReflectionTestUtils.setField(service, "reexecucaoMs", 50L);
+
+		service.despachar("outra-instancia|solicitacao|42");
+
+		assertThat(recebidas).containsExactly("42");
+		for (int i = 0; i < 50 && recebidas.size() < 2; i++) Thread.sleep(20);
+		assertThat(recebidas).containsExactly("42", "42");
+		service.parar();
+	}
+
+	@Test
+	void publicarEnviaPgNotify() {
+		service.publicar("solicitacao", 42L);
+
+		verify(jdbcTemplate).execute(anyString(), any(PreparedStatementCallback.class));
+	}
+
+	@Test
+	void publicarNaoFazNadaQuandoDesabilitado() {
+		ReflectionTestUtils.setField(service, "habilitado", false);
+
+		service.publicar("solicitacao", 42L);
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	void publicarNaoFazNadaComChaveNula() {
+		service.publicar("solicitacao", null);
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+}
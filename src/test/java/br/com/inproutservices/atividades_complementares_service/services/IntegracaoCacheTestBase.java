@@ -0,0 +1,70 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import br.com.inproutservices.atividades_complementares_service.entities.SolicitacaoAtividadeComplementar;
+import br.com.inproutservices.atividades_complementares_service.repositories.SolicitacaoAtividadeComplementarRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base dos testes que gravam no banco do profile "test" e dependem do cache L2 / barramento de invalidação.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class IntegracaoCacheTestBase {
+
+	@Autowired
+	protected SolicitacaoService solicitacaoService;
+
+	@Autowired
+	protected SolicitacaoAtividadeComplementarRepository repository;
+
+	@Autowired
+	protected EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	protected CacheInvalidacaoService cacheInvalidacao;
+
+	private final List<Long> criadas = new ArrayList<>();
+
+	@BeforeEach
+	void aguardarEscuta() throws InterruptedException {
+		// A thread de escuta sobe no ApplicationReadyEvent e limpa todas as regiões ao conectar
+		for (int i = 0; i < 100 && !cacheInvalidacao.isEscutando(); i++) Thread.sleep(100);
+		assertThat(cacheInvalidacao.isEscutando()).isTrue();
+	}
+
+	@AfterEach
+	void limpar() {
+		criadas.forEach(repository::deleteById);
+		criadas.clear();
+	}
+
+	/**
+	 * Grava uma solicitação pendente de coordenador e esvazia o cache L2.
+	 */
+	protected Long novaSolicitacao() {
+		Long id = repository.save(SolicitacaoAtividadeComplementar.builder()
+				.osId(1L)
+				.lpuId(1L)
+				.solicitanteId(1L)
+				.quantidade(1)
+				.build()).getId();
+		criadas.add(id);
+		entityManagerFactory.getCache().evictAll();
+		return id;
+	}
+
+	protected boolean emCache(Long id) {
+		return entityManagerFactory.getCache().contains(SolicitacaoAtividadeComplementar.class, id);
+	}
+
+}
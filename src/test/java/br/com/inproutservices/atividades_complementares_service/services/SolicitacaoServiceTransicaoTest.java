@@ -0,0 +1,47 @@
+package br.com.inproutservices.atividades_complementares_service.services;
+
+import br.com.inproutservices.atividades_complementares_service.dtos.SolicitacaoDTO;
+import br.com.inproutservices.atividades_complementares_service.enums.StatusSolicitacaoComplementar;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SolicitacaoServiceTransicaoTest extends IntegracaoCacheTestBase {
+
+	private static final SolicitacaoDTO.EdicaoCoordenadorDTO EDICAO =
+			new SolicitacaoDTO.EdicaoCoordenadorDTO(10L, 2L, 3, "BOQ", "ATIVO", "ok", null);
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void transicaoValidaStatusContraOBancoMesmoComCacheL2Defasado() {
+		Long id = novaSolicitacao();
+		solicitacaoService.buscarPorId(id);
+
+		// Outra réplica rejeitou a solicitação; o cache L2 desta ainda tem o status antigo
+		jdbcTemplate.update("UPDATE solicitacao_atividade_complementar SET status = ? WHERE id = ?",
+				StatusSolicitacaoComplementar.REJEITADO.name(), id);
+		assertThat(solicitacaoService.buscarPorId(id).getStatus()).isEqualTo(StatusSolicitacaoComplementar.PENDENTE_COORDENADOR);
+
+		assertThatThrownBy(() -> solicitacaoService.aprovarPeloCoordenador(id, EDICAO))
+				.hasMessageContaining("Status inválido");
+		assertThat(jdbcTemplate.queryForObject("SELECT status FROM solicitacao_atividade_complementar WHERE id = ?", String.class, id))
+				.isEqualTo(StatusSolicitacaoComplementar.REJEITADO.name());
+	}
+
+	@Test
+	void transicaoAtualizaOCacheL2() {
+		Long id = novaSolicitacao();
+		solicitacaoService.buscarPorId(id);
+
+		solicitacaoService.aprovarPeloCoordenador(id, EDICAO);
+
+		assertThat(emCache(id)).isTrue();
+		assertThat(solicitacaoService.buscarPorId(id).getStatus()).isEqualTo(StatusSolicitacaoComplementar.PENDENTE_CONTROLLER);
+	}
+
+}